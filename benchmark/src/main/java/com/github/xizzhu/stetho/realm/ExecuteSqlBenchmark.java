@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2017 Xizhi Zhu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.xizzhu.stetho.realm;
+
+import com.facebook.stetho.json.ObjectMapper;
+import com.facebook.stetho.json.annotation.JsonProperty;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures each stage of Database.executeSQL() over synthetic tables. Run with "-prof gc" (the
+ * default of the jmh task) to get the allocation rate per query.
+ *
+ * A query over 1M rows takes seconds, so this reports the average time per query, with enough
+ * iterations to get usable error bars for the largest tables.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 15, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+@State(Scope.Benchmark)
+public class ExecuteSqlBenchmark {
+    // like Database, reuse the mapper so its reflection cache stays warm
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Param({ "10000", "100000", "1000000" })
+    public int rows;
+
+    @Param({ "SELECT * FROM class_Book", "SELECT title, price, author FROM class_Book" })
+    public String query;
+
+    private DataStore store;
+    private SqlQuery sqlQuery;
+    private DataTable table;
+    private long[] columns;
+
+    @Setup
+    public void setUp() {
+        store = SyntheticData.create(rows);
+        sqlQuery = SqlQuery.parse(query);
+        table = store.getTable(sqlQuery.tableName);
+        columns = QueryExecutor.project(sqlQuery, table);
+    }
+
+    /**
+     * Holds a pre-computed result, only for the benchmarks that need it, so that the others don't
+     * pay for keeping it alive.
+     */
+    @State(Scope.Benchmark)
+    public static class ResultState {
+        private QueryResult result;
+
+        @Setup
+        public void setUp(ExecuteSqlBenchmark benchmark) {
+            result = new QueryExecutor().execute(benchmark.store, benchmark.query);
+        }
+    }
+
+    @Benchmark
+    public List<String> projection() {
+        return QueryExecutor.getColumnNames(table, QueryExecutor.project(sqlQuery, table));
+    }
+
+    @Benchmark
+    public void formatting(Blackhole blackhole) {
+        final QueryExecutor executor = new QueryExecutor();
+        final long size = table.size();
+        for (long row = 0L; row < size; ++row) {
+            for (long column : columns) {
+                blackhole.consume(executor.formatColumn(table, row, column));
+            }
+        }
+    }
+
+    @Benchmark
+    public QueryResult execution() {
+        return new QueryExecutor().execute(store, query);
+    }
+
+    @Benchmark
+    public String serialization(ResultState state) {
+        return serialize(state.result);
+    }
+
+    @Benchmark
+    public String endToEnd() {
+        return serialize(new QueryExecutor().execute(store, query));
+    }
+
+    /**
+     * Same as Database.executeSQL() followed by Stetho's JsonRpcPeer serializing the response.
+     */
+    private static String serialize(QueryResult result) {
+        final ExecuteSQLResponse response = new ExecuteSQLResponse();
+        response.columnNames = result.columnNames;
+        response.values = result.values;
+        return OBJECT_MAPPER.convertValue(response, JSONObject.class).toString();
+    }
+
+    /**
+     * Copy of Database.ExecuteSQLResponse, which lives in the Android library.
+     */
+    public static class ExecuteSQLResponse {
+        @JsonProperty
+        public List<String> columnNames;
+
+        @JsonProperty
+        public List<String> values;
+
+        @JsonProperty
+        public Error sqlError;
+    }
+
+    public static class Error {
+        @JsonProperty(required = true)
+        public String message;
+
+        @JsonProperty(required = true)
+        public int code;
+    }
+}
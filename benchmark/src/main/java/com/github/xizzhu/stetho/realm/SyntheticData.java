@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2017 Xizhi Zhu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.xizzhu.stetho.realm;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Random;
+
+/**
+ * Builds deterministic tables mirroring the sample app: "class_Author" with a primary key, and
+ * "class_Book" with BINARY, BOOLEAN, DATE, DOUBLE, FLOAT, INTEGER, LIST, OBJECT and STRING
+ * columns. LINKING_OBJECTS and the unsupported types are constant strings and left out.
+ */
+final class SyntheticData {
+    static final String AUTHOR_TABLE = "class_Author";
+    static final String BOOK_TABLE = "class_Book";
+
+    private static final int AUTHORS = 1000;
+    private static final long SEED = 42L;
+
+    private SyntheticData() {
+    }
+
+    static InMemoryDataStore create(int books) {
+        final Random random = new Random(SEED);
+
+        final InMemoryDataTable authors = new InMemoryDataTable("Author")
+            .addColumn("id", ColumnType.INTEGER)
+            .addColumn("name", ColumnType.STRING)
+            .setPrimaryKey("id");
+        for (int i = 0; i < AUTHORS; ++i) {
+            authors.addRow((long) i, "Author " + i);
+        }
+
+        final InMemoryDataTable bookTable = new InMemoryDataTable("Book")
+            .addColumn("id", ColumnType.INTEGER)
+            .addColumn("title", ColumnType.STRING)
+            .addColumn("subtitle", ColumnType.STRING)
+            .addColumn("price", ColumnType.DOUBLE)
+            .addColumn("rating", ColumnType.FLOAT)
+            .addColumn("available", ColumnType.BOOLEAN)
+            .addColumn("published", ColumnType.DATE)
+            .addColumn("cover", ColumnType.BINARY)
+            .addColumn("author", ColumnType.OBJECT, authors)
+            .addColumn("coAuthors", ColumnType.LIST, authors)
+            .setPrimaryKey("id");
+        for (int i = 0; i < books; ++i) {
+            final byte[] cover = new byte[8];
+            random.nextBytes(cover);
+            bookTable.addRow((long) i, "Book " + i,
+                random.nextInt(4) == 0 ? null : "Subtitle " + random.nextInt(),
+                random.nextDouble() * 100.0, random.nextFloat() * 5.0F, random.nextBoolean(),
+                new Date(random.nextLong() >>> 24), cover,
+                random.nextInt(10) == 0 ? null : (long) random.nextInt(AUTHORS),
+                Arrays.asList((long) random.nextInt(AUTHORS), (long) random.nextInt(AUTHORS)));
+        }
+
+        final InMemoryDataStore store = new InMemoryDataStore();
+        store.addTable(AUTHOR_TABLE, authors);
+        store.addTable(BOOK_TABLE, bookTable);
+        return store;
+    }
+}
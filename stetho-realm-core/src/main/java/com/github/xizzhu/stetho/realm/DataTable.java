@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2017 Xizhi Zhu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.xizzhu.stetho.realm;
+
+import java.util.Date;
+
+/**
+ * Read-only view of a table. Sequential row access may be cheaper than random access.
+ */
+interface DataTable {
+    long NO_PRIMARY_KEY = -1L;
+
+    String getClassName();
+
+    long getColumnCount();
+
+    String getColumnName(long column);
+
+    ColumnType getColumnType(long column);
+
+    long getPrimaryKey();
+
+    DataTable getLinkTarget(long column);
+
+    long size();
+
+    boolean isNull(long row, long column);
+
+    byte[] getBinary(long row, long column);
+
+    boolean getBoolean(long row, long column);
+
+    Date getDate(long row, long column);
+
+    double getDouble(long row, long column);
+
+    float getFloat(long row, long column);
+
+    long getLong(long row, long column);
+
+    long getLink(long row, long column);
+
+    Object getLinkList(long row, long column);
+
+    String getString(long row, long column);
+}
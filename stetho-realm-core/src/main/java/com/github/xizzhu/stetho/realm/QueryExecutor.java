@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2017 Xizhi Zhu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.xizzhu.stetho.realm;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Executes a query against a {@link DataStore}. Not thread-safe, create one per query.
+ */
+final class QueryExecutor {
+    private static final String ROW_ID = "rowid";
+
+    private final SimpleDateFormat dateFormat =
+        new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ", Locale.ENGLISH);
+
+    QueryResult execute(DataStore store, String query) {
+        final SqlQuery sqlQuery = SqlQuery.parse(query);
+        if (sqlQuery == null) {
+            throw new IllegalArgumentException("Query not supported");
+        }
+
+        final DataTable table = store.getTable(sqlQuery.tableName);
+        final long[] columns = project(sqlQuery, table);
+        final long rows = table.size();
+        final List<String> values =
+            new ArrayList<>((int) Math.min(rows * (columns.length + 1), Integer.MAX_VALUE));
+        for (long row = 0L; row < rows; ++row) {
+            // first column is "rowid"
+            values.add(Long.toString(row));
+            for (long column : columns) {
+                values.add(formatColumn(table, row, column));
+            }
+        }
+        return new QueryResult(getColumnNames(table, columns), values);
+    }
+
+    /**
+     * @return Indices of the selected columns in query order, skipping names not in the table.
+     */
+    static long[] project(SqlQuery sqlQuery, DataTable table) {
+        final long columnCount = table.getColumnCount();
+        if (sqlQuery.selectsAllColumns()) {
+            final long[] projection = new long[(int) columnCount];
+            for (int i = 0; i < projection.length; ++i) {
+                projection[i] = i;
+            }
+            return projection;
+        }
+
+        final Map<String, Long> columnIndices = new HashMap<>();
+        for (long column = 0L; column < columnCount; ++column) {
+            columnIndices.put(table.getColumnName(column), column);
+        }
+        final long[] projection = new long[sqlQuery.columnNames.size()];
+        int count = 0;
+        for (String columnName : sqlQuery.columnNames) {
+            final Long column = columnIndices.get(columnName);
+            if (column != null) {
+                projection[count++] = column;
+            }
+        }
+        return Arrays.copyOf(projection, count);
+    }
+
+    /**
+     * @return Column names of the response, starting with "rowid".
+     */
+    static List<String> getColumnNames(DataTable table, long[] columns) {
+        final List<String> columnNames = new ArrayList<>(columns.length + 1);
+        columnNames.add(ROW_ID);
+        for (long column : columns) {
+            columnNames.add(table.getColumnName(column));
+        }
+        return columnNames;
+    }
+
+    String formatColumn(DataTable table, long row, long column) {
+        if (table.isNull(row, column)) {
+            return "<null>";
+        }
+        switch (table.getColumnType(column)) {
+            case BINARY:
+                return Arrays.toString(table.getBinary(row, column));
+            case BOOLEAN:
+                return Boolean.toString(table.getBoolean(row, column));
+            case DATE:
+                return dateFormat.format(table.getDate(row, column));
+            case DOUBLE:
+                return Double.toString(table.getDouble(row, column));
+            case FLOAT:
+                return Float.toString(table.getFloat(row, column));
+            case INTEGER:
+                return Long.toString(table.getLong(row, column));
+            case LINKING_OBJECTS:
+                return "<linking objects>";
+            case LIST:
+                return table.getLinkList(row, column).toString();
+            case OBJECT:
+                return formatObject(table, row, column);
+            case STRING:
+                return table.getString(row, column);
+            case UNSUPPORTED_DATE:
+                return "<unsupported date>";
+            case UNSUPPORTED_MIXED:
+                return "<unsupported mixed>";
+            case UNSUPPORTED_TABLE:
+                return "<unsupported table>";
+            default:
+                return "<unsupported>";
+        }
+    }
+
+    private String formatObject(DataTable table, long row, long column) {
+        final DataTable target = table.getLinkTarget(column);
+        final StringBuilder builder = new StringBuilder().append(target.getClassName());
+        final long primaryKeyColumn = target.getPrimaryKey();
+        if (primaryKeyColumn != DataTable.NO_PRIMARY_KEY) {
+            builder.append('<')
+                .append(target.getColumnName(primaryKeyColumn))
+                .append(": ")
+                .append(formatColumn(target, table.getLink(row, column), primaryKeyColumn))
+                .append('>');
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2017 Xizhi Zhu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.xizzhu.stetho.realm;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class SqlQuery {
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    private static final Pattern SELECT_PATTERN =
+        Pattern.compile("SELECT ((\\w+, ?)*\\w+) FROM \"?(\\w+)\"?", Pattern.CASE_INSENSITIVE);
+    private static final Pattern SELECT_ALL_PATTERN =
+        Pattern.compile("SELECT (rowid, ?)?\\* FROM \"?(\\w+)\"?", Pattern.CASE_INSENSITIVE);
+
+    final String tableName;
+
+    /**
+     * Selected column names in query order, or empty if all columns are selected.
+     */
+    final List<String> columnNames;
+
+    private SqlQuery(String tableName, List<String> columnNames) {
+        this.tableName = tableName;
+        this.columnNames = columnNames;
+    }
+
+    boolean selectsAllColumns() {
+        return columnNames.isEmpty();
+    }
+
+    /**
+     * @return The parsed query, or null if the query is not supported.
+     */
+    static SqlQuery parse(String query) {
+        final String normalized = WHITESPACE_PATTERN.matcher(query).replaceAll(" ").trim();
+        final Matcher selectMatcher = SELECT_PATTERN.matcher(normalized);
+        if (selectMatcher.matches()) {
+            return new SqlQuery(selectMatcher.group(3), Arrays.asList(
+                WHITESPACE_PATTERN.matcher(selectMatcher.group(1)).replaceAll("").split(",")));
+        }
+        final Matcher selectAllMatcher = SELECT_ALL_PATTERN.matcher(normalized);
+        if (selectAllMatcher.matches()) {
+            return new SqlQuery(selectAllMatcher.group(2), Collections.<String>emptyList());
+        }
+        return null;
+    }
+}
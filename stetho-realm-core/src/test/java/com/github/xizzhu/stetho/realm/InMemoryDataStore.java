@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2017 Xizhi Zhu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.xizzhu.stetho.realm;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class InMemoryDataStore implements DataStore {
+    private final Map<String, InMemoryDataTable> tables = new LinkedHashMap<>();
+
+    void addTable(String tableName, InMemoryDataTable table) {
+        tables.put(tableName, table);
+    }
+
+    @Override
+    public List<String> getTableNames() {
+        return new ArrayList<>(tables.keySet());
+    }
+
+    @Override
+    public DataTable getTable(String tableName) {
+        final InMemoryDataTable table = tables.get(tableName);
+        if (table == null) {
+            throw new IllegalArgumentException("Table not found: " + tableName);
+        }
+        return table;
+    }
+
+    @Override
+    public void close() {
+        tables.clear();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2017 Xizhi Zhu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.xizzhu.stetho.realm;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Column-oriented table kept on the heap. Cell values are boxed; links are stored as the row
+ * index in the target table.
+ */
+final class InMemoryDataTable implements DataTable {
+    private final String className;
+    private final List<String> columnNames = new ArrayList<>();
+    private final List<ColumnType> columnTypes = new ArrayList<>();
+    private final List<DataTable> linkTargets = new ArrayList<>();
+    private final List<List<Object>> columns = new ArrayList<>();
+    private long primaryKey = NO_PRIMARY_KEY;
+    private long size;
+
+    InMemoryDataTable(String className) {
+        this.className = className;
+    }
+
+    InMemoryDataTable addColumn(String columnName, ColumnType columnType) {
+        return addColumn(columnName, columnType, null);
+    }
+
+    InMemoryDataTable addColumn(String columnName, ColumnType columnType, DataTable linkTarget) {
+        if (size > 0L) {
+            throw new IllegalStateException("Columns must be added before rows");
+        }
+        columnNames.add(columnName);
+        columnTypes.add(columnType);
+        linkTargets.add(linkTarget);
+        columns.add(new ArrayList<Object>());
+        return this;
+    }
+
+    InMemoryDataTable setPrimaryKey(String columnName) {
+        final int column = columnNames.indexOf(columnName);
+        if (column < 0) {
+            throw new IllegalArgumentException("Column not found: " + columnName);
+        }
+        primaryKey = column;
+        return this;
+    }
+
+    InMemoryDataTable addRow(Object... values) {
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException(
+                "Expected " + columns.size() + " values, got " + values.length);
+        }
+        for (int i = 0; i < values.length; ++i) {
+            columns.get(i).add(values[i]);
+        }
+        ++size;
+        return this;
+    }
+
+    private Object get(long row, long column) {
+        return columns.get((int) column).get((int) row);
+    }
+
+    @Override
+    public String getClassName() {
+        return className;
+    }
+
+    @Override
+    public long getColumnCount() {
+        return columns.size();
+    }
+
+    @Override
+    public String getColumnName(long column) {
+        return columnNames.get((int) column);
+    }
+
+    @Override
+    public ColumnType getColumnType(long column) {
+        return columnTypes.get((int) column);
+    }
+
+    @Override
+    public long getPrimaryKey() {
+        return primaryKey;
+    }
+
+    @Override
+    public DataTable getLinkTarget(long column) {
+        return linkTargets.get((int) column);
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public boolean isNull(long row, long column) {
+        return get(row, column) == null;
+    }
+
+    @Override
+    public byte[] getBinary(long row, long column) {
+        return (byte[]) get(row, column);
+    }
+
+    @Override
+    public boolean getBoolean(long row, long column) {
+        return (Boolean) get(row, column);
+    }
+
+    @Override
+    public Date getDate(long row, long column) {
+        return (Date) get(row, column);
+    }
+
+    @Override
+    public double getDouble(long row, long column) {
+        return ((Number) get(row, column)).doubleValue();
+    }
+
+    @Override
+    public float getFloat(long row, long column) {
+        return ((Number) get(row, column)).floatValue();
+    }
+
+    @Override
+    public long getLong(long row, long column) {
+        return ((Number) get(row, column)).longValue();
+    }
+
+    @Override
+    public long getLink(long row, long column) {
+        return ((Number) get(row, column)).longValue();
+    }
+
+    @Override
+    public Object getLinkList(long row, long column) {
+        return get(row, column);
+    }
+
+    @Override
+    public String getString(long row, long column) {
+        return (String) get(row, column);
+    }
+}
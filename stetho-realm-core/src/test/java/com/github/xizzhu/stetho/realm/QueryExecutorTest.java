@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2017 Xizhi Zhu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.xizzhu.stetho.realm;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class QueryExecutorTest {
+    private InMemoryDataStore store;
+
+    @Before
+    public void setUp() {
+        final InMemoryDataTable authors = new InMemoryDataTable("Author")
+            .addColumn("id", ColumnType.INTEGER)
+            .addColumn("name", ColumnType.STRING)
+            .setPrimaryKey("id")
+            .addRow(7L, "Alice")
+            .addRow(8L, null);
+        final InMemoryDataTable publishers = new InMemoryDataTable("Publisher")
+            .addColumn("name", ColumnType.STRING)
+            .addRow("Acme");
+        final InMemoryDataTable books = new InMemoryDataTable("Book")
+            .addColumn("title", ColumnType.STRING)
+            .addColumn("price", ColumnType.DOUBLE)
+            .addColumn("available", ColumnType.BOOLEAN)
+            .addColumn("cover", ColumnType.BINARY)
+            .addColumn("author", ColumnType.OBJECT, authors)
+            .addColumn("publisher", ColumnType.OBJECT, publishers)
+            .addColumn("readers", ColumnType.LINKING_OBJECTS)
+            .addRow("First", 9.5, true, new byte[] { 1, -2 }, 1L, 0L, Collections.emptyList())
+            .addRow(null, 0.25, false, null, null, null, Collections.emptyList());
+
+        store = new InMemoryDataStore();
+        store.addTable("class_Author", authors);
+        store.addTable("class_Publisher", publishers);
+        store.addTable("class_Book", books);
+    }
+
+    @Test
+    public void testSelectAll() {
+        final QueryResult result = new QueryExecutor().execute(store, "SELECT * FROM class_Book");
+        assertEquals(Arrays.asList("rowid", "title", "price", "available", "cover", "author",
+            "publisher", "readers"), result.columnNames);
+        assertEquals(Arrays.asList(
+            "0", "First", "9.5", "true", "[1, -2]", "Author<id: 8>", "Publisher",
+            "<linking objects>",
+            "1", "<null>", "0.25", "false", "<null>", "<null>", "<null>", "<linking objects>"),
+            result.values);
+    }
+
+    @Test
+    public void testSelectRowIdAndAll() {
+        final QueryResult result =
+            new QueryExecutor().execute(store, "SELECT rowid, * FROM class_Author");
+        assertEquals(Arrays.asList("rowid", "id", "name"), result.columnNames);
+        assertEquals(Arrays.asList("0", "7", "Alice", "1", "8", "<null>"), result.values);
+    }
+
+    @Test
+    public void testSelectColumns() {
+        final QueryResult result = new QueryExecutor().execute(store,
+            "SELECT  author,\n  title FROM \"class_Book\"");
+        assertEquals(Arrays.asList("rowid", "author", "title"), result.columnNames);
+        assertEquals(Arrays.asList("0", "Author<id: 8>", "First", "1", "<null>", "<null>"),
+            result.values);
+    }
+
+    @Test
+    public void testSelectRowIdAndColumns() {
+        final QueryResult result =
+            new QueryExecutor().execute(store, "SELECT rowid, name FROM class_Author");
+        assertEquals(Arrays.asList("rowid", "name"), result.columnNames);
+        assertEquals(Arrays.asList("0", "Alice", "1", "<null>"), result.values);
+    }
+
+    @Test
+    public void testUnknownColumn() {
+        final QueryResult result =
+            new QueryExecutor().execute(store, "SELECT name, unknown FROM class_Author");
+        assertEquals(Arrays.asList("rowid", "name"), result.columnNames);
+        assertEquals(Arrays.asList("0", "Alice", "1", "<null>"), result.values);
+    }
+
+    @Test
+    public void testUnsupportedQuery() {
+        try {
+            new QueryExecutor().execute(store, "DELETE FROM class_Book");
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("Query not supported", e.getMessage());
+        }
+    }
+}
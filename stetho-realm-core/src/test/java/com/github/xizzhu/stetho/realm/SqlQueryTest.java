@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2017 Xizhi Zhu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.xizzhu.stetho.realm;
+
+import java.util.Arrays;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SqlQueryTest {
+    @Test
+    public void testSelectAll() {
+        final SqlQuery query = SqlQuery.parse("SELECT * FROM class_Book");
+        assertEquals("class_Book", query.tableName);
+        assertTrue(query.selectsAllColumns());
+    }
+
+    @Test
+    public void testSelectRowIdAndAll() {
+        final SqlQuery query = SqlQuery.parse("select rowid, * from \"class_Book\"");
+        assertEquals("class_Book", query.tableName);
+        assertTrue(query.selectsAllColumns());
+    }
+
+    @Test
+    public void testSelectColumns() {
+        final SqlQuery query =
+            SqlQuery.parse("  SELECT  title,\n\tid,author   FROM  \"class_Book\"  ");
+        assertEquals("class_Book", query.tableName);
+        assertEquals(Arrays.asList("title", "id", "author"), query.columnNames);
+    }
+
+    @Test
+    public void testUnsupported() {
+        assertNull(SqlQuery.parse("DELETE FROM class_Book"));
+        assertNull(SqlQuery.parse("SELECT * FROM class_Book WHERE id = 1"));
+        assertNull(SqlQuery.parse("SELECT title , id FROM class_Book"));
+    }
+}
@@ -16,7 +16,6 @@
 
 package com.github.xizzhu.stetho.realm;
 
-import android.text.TextUtils;
 import com.facebook.stetho.inspector.helper.ChromePeerManager;
 import com.facebook.stetho.inspector.helper.PeerRegistrationListener;
 import com.facebook.stetho.inspector.jsonrpc.JsonRpcPeer;
@@ -26,18 +25,11 @@ import com.facebook.stetho.inspector.protocol.ChromeDevtoolsMethod;
 import com.facebook.stetho.json.ObjectMapper;
 import com.facebook.stetho.json.annotation.JsonProperty;
 import io.realm.RealmConfiguration;
-import io.realm.internal.CheckedRow;
 import io.realm.internal.SharedRealm;
-import io.realm.internal.Table;
 import java.io.File;
-import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.json.JSONObject;
 
@@ -47,7 +39,7 @@ import org.json.JSONObject;
 final class Database implements ChromeDevtoolsDomain, PeerRegistrationListener {
     private final ChromePeerManager peerManager = new ChromePeerManager();
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final Map<String, SharedRealm> realms = new HashMap<>();
+    private final Map<String, DataStore> stores = new HashMap<>();
     private final String packageName;
     private final File[] dirs;
     private final Pattern namePattern;
@@ -74,22 +66,17 @@ final class Database implements ChromeDevtoolsDomain, PeerRegistrationListener {
 
     @ChromeDevtoolsMethod
     public JsonRpcResult getDatabaseTableNames(JsonRpcPeer peer, JSONObject params) {
-        final SharedRealm realm = getRealm(
+        final DataStore store = getDataStore(
             objectMapper.convertValue(params, GetDatabaseTableNamesRequest.class).databaseId);
-        final int size = (int) realm.size();
-        final List<String> tableNames = new ArrayList<>(size);
-        for (int i = 0; i < size; ++i) {
-            tableNames.add(realm.getTableName(i));
-        }
 
         final GetDatabaseTableNamesResponse response = new GetDatabaseTableNamesResponse();
-        response.tableNames = tableNames;
+        response.tableNames = store.getTableNames();
         return response;
     }
 
-    private synchronized SharedRealm getRealm(String path) {
-        SharedRealm realm = realms.get(path);
-        if (realm == null) {
+    private synchronized DataStore getDataStore(String path) {
+        DataStore store = stores.get(path);
+        if (store == null) {
             final File realmFile = new File(path);
             final RealmConfiguration.Builder builder =
                 new RealmConfiguration.Builder().directory(realmFile.getParentFile())
@@ -98,72 +85,23 @@ final class Database implements ChromeDevtoolsDomain, PeerRegistrationListener {
             if (encryptionKey != null && encryptionKey.length > 0) {
                 builder.encryptionKey(encryptionKey);
             }
-            realm = SharedRealm.getInstance(builder.build());
-            realms.put(path, realm);
+            store = new RealmDataStore(SharedRealm.getInstance(builder.build()));
+            stores.put(path, store);
         }
-        return realm;
+        return store;
     }
 
-    private static final Pattern SELECT_PATTERN =
-        Pattern.compile("SELECT ((\\w+, ?)*\\w+) FROM \"?(\\w+)\"?", Pattern.CASE_INSENSITIVE);
-    private static final Pattern SELECT_ALL_PATTERN =
-        Pattern.compile("SELECT (rowid, ?)?\\* FROM \"?(\\w+)\"?", Pattern.CASE_INSENSITIVE);
-
     @ChromeDevtoolsMethod
     public JsonRpcResult executeSQL(JsonRpcPeer peer, JSONObject params) {
         try {
             final ExecuteSQLRequest request =
                 objectMapper.convertValue(params, ExecuteSQLRequest.class);
-            final SharedRealm realm = getRealm(request.databaseId);
-            String tableName = null;
-            final List<String> columnNames = new ArrayList<>();
-            final String query = request.query.replaceAll("\\s+", " ").trim();
-            final Matcher selectMatcher = SELECT_PATTERN.matcher(query);
-            if (selectMatcher.matches()) {
-                tableName = selectMatcher.group(3);
-                columnNames.addAll(
-                    Arrays.asList(selectMatcher.group(1).replaceAll("\\s+", "").split(",")));
-            } else {
-                final Matcher selectAllMatcher = SELECT_ALL_PATTERN.matcher(query);
-                if (selectAllMatcher.matches()) {
-                    tableName = selectAllMatcher.group(2);
-
-                    final Table table = realm.getTable(tableName);
-                    final long columns = table.getColumnCount();
-                    for (long i = 0L; i < columns; ++i) {
-                        columnNames.add(table.getColumnName(i));
-                    }
-                }
-            }
-            if (TextUtils.isEmpty(tableName)) {
-                final ExecuteSQLResponse response = new ExecuteSQLResponse();
-                final Error error = new Error();
-                error.message = "Query not supported";
-                response.sqlError = error;
-                return response;
-            }
-            columnNames.add(0, "rowid");
-
-            final Table table = realm.getTable(tableName);
-            final long columns = table.getColumnCount();
-            final long rows = table.size();
-            final List<String> values = new ArrayList<>();
-            for (long row = 0L; row < rows; ++row) {
-                // first column is "rowid"
-                values.add(Long.toString(row));
-
-                final CheckedRow checkedRow = table.getCheckedRow(row);
-                for (long column = 0L; column < columns; ++column) {
-                    final String columnName = table.getColumnName(column);
-                    if (columnNames.contains(columnName)) {
-                        values.add(formatColumn(checkedRow, column, table));
-                    }
-                }
-            }
+            final QueryResult result =
+                new QueryExecutor().execute(getDataStore(request.databaseId), request.query);
 
             final ExecuteSQLResponse response = new ExecuteSQLResponse();
-            response.columnNames = columnNames;
-            response.values = values;
+            response.columnNames = result.columnNames;
+            response.values = result.values;
             return response;
         } catch (Exception e) {
             final ExecuteSQLResponse response = new ExecuteSQLResponse();
@@ -174,59 +112,6 @@ final class Database implements ChromeDevtoolsDomain, PeerRegistrationListener {
         }
     }
 
-    private static String formatColumn(CheckedRow checkedRow, long column, Table table) {
-        if (checkedRow.isNull(column) || checkedRow.isNullLink(column)) {
-            return "<null>";
-        }
-        switch (checkedRow.getColumnType(column)) {
-            case BINARY:
-                return Arrays.toString(checkedRow.getBinaryByteArray(column));
-            case BOOLEAN:
-                return Boolean.toString(checkedRow.getBoolean(column));
-            case DATE:
-                return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ", Locale.ENGLISH).format(
-                    checkedRow.getDate(column));
-            case DOUBLE:
-                return Double.toString(checkedRow.getDouble(column));
-            case FLOAT:
-                return Float.toString(checkedRow.getFloat(column));
-            case INTEGER:
-                return Long.toString(checkedRow.getLong(column));
-            case LINKING_OBJECTS:
-                return "<linking objects>";
-            case LIST:
-                return checkedRow.getLinkList(column).toString();
-            case OBJECT:
-                return formatObject(checkedRow, column, table);
-            case STRING:
-                return checkedRow.getString(column);
-            case UNSUPPORTED_DATE:
-                return "<unsupported date>";
-            case UNSUPPORTED_MIXED:
-                return "<unsupported mixed>";
-            case UNSUPPORTED_TABLE:
-                return "<unsupported table>";
-            default:
-                return "<unsupported>";
-        }
-    }
-
-    private static String formatObject(CheckedRow checkedRow, long column, Table table) {
-        final Table target = table.getLinkTarget(column);
-        final StringBuilder builder = new StringBuilder().append(target.getClassName());
-        if (target.hasPrimaryKey()) {
-            final long primaryKeyColumn = target.getPrimaryKey();
-            builder.append('<')
-                .append(target.getColumnName(primaryKeyColumn))
-                .append(": ")
-                .append(
-                    formatColumn(target.getCheckedRow(checkedRow.getLink(column)), primaryKeyColumn,
-                        target))
-                .append('>');
-        }
-        return builder.toString();
-    }
-
     @Override
     public void onPeerRegistered(JsonRpcPeer jsonRpcPeer) {
         for (File dir : dirs) {
@@ -252,10 +137,10 @@ final class Database implements ChromeDevtoolsDomain, PeerRegistrationListener {
 
     @Override
     public void onPeerUnregistered(JsonRpcPeer jsonRpcPeer) {
-        for (Map.Entry<String, SharedRealm> entry : realms.entrySet()) {
+        for (Map.Entry<String, DataStore> entry : stores.entrySet()) {
             entry.getValue().close();
         }
-        realms.clear();
+        stores.clear();
     }
 
     static class AddDatabaseEvent {
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2017 Xizhi Zhu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.xizzhu.stetho.realm;
+
+import io.realm.internal.SharedRealm;
+import java.util.ArrayList;
+import java.util.List;
+
+final class RealmDataStore implements DataStore {
+    private final SharedRealm realm;
+
+    RealmDataStore(SharedRealm realm) {
+        this.realm = realm;
+    }
+
+    @Override
+    public List<String> getTableNames() {
+        final int size = (int) realm.size();
+        final List<String> tableNames = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            tableNames.add(realm.getTableName(i));
+        }
+        return tableNames;
+    }
+
+    @Override
+    public DataTable getTable(String tableName) {
+        return new RealmDataTable(realm.getTable(tableName));
+    }
+
+    @Override
+    public void close() {
+        realm.close();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2017 Xizhi Zhu
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.xizzhu.stetho.realm;
+
+import io.realm.internal.CheckedRow;
+import io.realm.internal.Table;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+final class RealmDataTable implements DataTable {
+    private final Table table;
+    private final Map<Long, DataTable> linkTargets = new HashMap<>();
+    private CheckedRow checkedRow;
+    private long checkedRowIndex = -1L;
+
+    RealmDataTable(Table table) {
+        this.table = table;
+    }
+
+    private CheckedRow getCheckedRow(long row) {
+        // rows are read in order, so keep the last one around instead of creating one per cell
+        if (checkedRowIndex != row) {
+            checkedRow = table.getCheckedRow(row);
+            checkedRowIndex = row;
+        }
+        return checkedRow;
+    }
+
+    @Override
+    public String getClassName() {
+        return table.getClassName();
+    }
+
+    @Override
+    public long getColumnCount() {
+        return table.getColumnCount();
+    }
+
+    @Override
+    public String getColumnName(long column) {
+        return table.getColumnName(column);
+    }
+
+    @Override
+    public ColumnType getColumnType(long column) {
+        switch (table.getColumnType(column)) {
+            case BINARY:
+                return ColumnType.BINARY;
+            case BOOLEAN:
+                return ColumnType.BOOLEAN;
+            case DATE:
+                return ColumnType.DATE;
+            case DOUBLE:
+                return ColumnType.DOUBLE;
+            case FLOAT:
+                return ColumnType.FLOAT;
+            case INTEGER:
+                return ColumnType.INTEGER;
+            case LINKING_OBJECTS:
+                return ColumnType.LINKING_OBJECTS;
+            case LIST:
+                return ColumnType.LIST;
+            case OBJECT:
+                return ColumnType.OBJECT;
+            case STRING:
+                return ColumnType.STRING;
+            case UNSUPPORTED_DATE:
+                return ColumnType.UNSUPPORTED_DATE;
+            case UNSUPPORTED_MIXED:
+                return ColumnType.UNSUPPORTED_MIXED;
+            case UNSUPPORTED_TABLE:
+                return ColumnType.UNSUPPORTED_TABLE;
+            default:
+                return ColumnType.UNSUPPORTED;
+        }
+    }
+
+    @Override
+    public long getPrimaryKey() {
+        return table.hasPrimaryKey() ? table.getPrimaryKey() : NO_PRIMARY_KEY;
+    }
+
+    @Override
+    public DataTable getLinkTarget(long column) {
+        DataTable target = linkTargets.get(column);
+        if (target == null) {
+            target = new RealmDataTable(table.getLinkTarget(column));
+            linkTargets.put(column, target);
+        }
+        return target;
+    }
+
+    @Override
+    public long size() {
+        return table.size();
+    }
+
+    @Override
+    public boolean isNull(long row, long column) {
+        final CheckedRow checkedRow = getCheckedRow(row);
+        return checkedRow.isNull(column) || checkedRow.isNullLink(column);
+    }
+
+    @Override
+    public byte[] getBinary(long row, long column) {
+        return getCheckedRow(row).getBinaryByteArray(column);
+    }
+
+    @Override
+    public boolean getBoolean(long row, long column) {
+        return getCheckedRow(row).getBoolean(column);
+    }
+
+    @Override
+    public Date getDate(long row, long column) {
+        return getCheckedRow(row).getDate(column);
+    }
+
+    @Override
+    public double getDouble(long row, long column) {
+        return getCheckedRow(row).getDouble(column);
+    }
+
+    @Override
+    public float getFloat(long row, long column) {
+        return getCheckedRow(row).getFloat(column);
+    }
+
+    @Override
+    public long getLong(long row, long column) {
+        return getCheckedRow(row).getLong(column);
+    }
+
+    @Override
+    public long getLink(long row, long column) {
+        return getCheckedRow(row).getLink(column);
+    }
+
+    @Override
+    public Object getLinkList(long row, long column) {
+        return getCheckedRow(row).getLinkList(column);
+    }
+
+    @Override
+    public String getString(long row, long column) {
+        return getCheckedRow(row).getString(column);
+    }
+}